@@ -56,11 +56,18 @@ public class PutTest
         largeFile = null;
     }
 
+    @Override
     @AfterMethod
     public void after()
             throws Exception {
-        if (c != null) {
-            c.close();
+        try {
+            if (c != null) {
+                c.close();
+                c = null;
+            }
+        }
+        finally {
+            super.after();
         }
     }
 
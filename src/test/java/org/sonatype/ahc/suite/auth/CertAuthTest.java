@@ -51,11 +51,18 @@ public class CertAuthTest
         provider.addUser(alias, CertUtil.getCertificate(alias, keystorePath, keystorePass));
     }
 
+    @Override
     @AfterMethod
     public void after()
             throws Exception {
-        if (client != null) {
-            client.close();
+        try {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+        finally {
+            super.after();
         }
     }
 
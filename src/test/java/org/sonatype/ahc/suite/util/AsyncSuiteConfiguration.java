@@ -38,7 +38,9 @@ public class AsyncSuiteConfiguration
     private AsyncHttpClient client;
 
     protected AsyncHttpClient client() {
-        client = new AsyncHttpClient(settings(builder()).build());
+        if (client == null) {
+            client = new AsyncHttpClient(settings(builder()).build());
+        }
         return client;
     }
 
@@ -52,9 +54,14 @@ public class AsyncSuiteConfiguration
     @AfterMethod
     public void after()
             throws Exception {
-        super.after();
-        if (client != null) {
-            client.close();
+        try {
+            super.after();
+        }
+        finally {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
         }
     }
 